@@ -0,0 +1,39 @@
+plugins {
+    `java-library`
+    id("io.freefair.lombok")
+    id("com.github.johnrengelman.shadow")
+}
+
+val junitVersion: String by project
+val jetbrainsAnnotationsVersion: String by project
+
+dependencies {
+    compileOnly("org.jetbrains:annotations:$jetbrainsAnnotationsVersion")
+    testImplementation(platform("org.junit:junit-bom:$junitVersion"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+tasks.jar {
+    archiveBaseName.set("generic-library")
+    archiveVersion.set(project.version.toString())
+    archiveClassifier.set("")
+}
+
+tasks.shadowJar {
+    archiveBaseName.set("generic-library")
+    archiveVersion.set("0.0.1")
+    archiveClassifier.set("")
+    mergeServiceFiles()
+    minimize()
+}
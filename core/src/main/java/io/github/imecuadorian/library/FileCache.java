@@ -0,0 +1,255 @@
+package io.github.imecuadorian.library;
+
+import org.jetbrains.annotations.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Size-bounded cache of file contents, used through {@link Files#readFile(FileCache)}.
+ * <p>
+ * Entries are keyed by path and remember the modification time and size of the file they were read from.
+ * Every lookup costs a single attribute read; an entry whose file changed since is reloaded. The heap
+ * footprint of the cached content is kept under a byte budget by evicting the least recently used entries,
+ * and concurrent misses for the same version of a file share one load.
+ */
+public class FileCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentHashMap<Version, CompletableFuture<String>> loading = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long weight;
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param maxBytes the maximum heap footprint, in bytes, of the cached content
+     * @throws IllegalArgumentException if {@code maxBytes} is negative
+     */
+    public FileCache(long maxBytes) {
+        if (maxBytes < 0) throw new IllegalArgumentException("Cache size cannot be negative");
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the content of a file as {@link Files#readFile()} would, from the cache when it is still current.
+     *
+     * @param file the file to read
+     * @return the entire file content
+     * @throws IOException if the file cannot be read
+     */
+    public String read(@NotNull File file) throws IOException {
+        Path path = file.toPath().toAbsolutePath().normalize();
+        BasicFileAttributes attributes;
+        try {
+            attributes = java.nio.file.Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            invalidate(file);
+            throw new FileNotFoundException(file.getPath());
+        }
+        FileTime lastModified = attributes.lastModifiedTime();
+        long size = attributes.size();
+
+        String cached = lookup(path, lastModified, size);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        // Keyed by version so a reader never joins a load of content older than its own stat.
+        Version version = new Version(path, lastModified, size);
+        CompletableFuture<String> load = new CompletableFuture<>();
+        CompletableFuture<String> pending = loading.putIfAbsent(version, load);
+        if (pending != null) {
+            return await(pending);
+        }
+        try {
+            // Another reader may have finished loading between the lookup and claiming the load.
+            String content = lookup(path, lastModified, size);
+            if (content == null) {
+                loads.increment();
+                content = new Files(path.toString()).readFile();
+                store(path, new Entry(content, lastModified, size, weigh(content)));
+            }
+            load.complete(content);
+            return content;
+        } catch (IOException | RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(version, load);
+        }
+    }
+
+    /**
+     * Removes a file from the cache.
+     *
+     * @param file the file to forget
+     */
+    public void invalidate(@NotNull File file) {
+        Path path = file.toPath().toAbsolutePath().normalize();
+        synchronized (entries) {
+            Entry removed = entries.remove(path);
+            if (removed != null) weight -= removed.weight();
+        }
+    }
+
+    /**
+     * Removes every file from the cache. Metrics are kept.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    /**
+     * Returns the fraction of reads served from the cache.
+     *
+     * @return the hit ratio between {@code 0} and {@code 1}, or {@code 0} before the first read
+     */
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Gets the number of reads served from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of reads that found no current entry.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of times a file was actually read.
+     * <p>
+     * Lower than the miss count when concurrent misses shared a load.
+     *
+     * @return the load count
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * Gets the number of entries evicted to stay under the byte budget.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the estimated heap footprint, in bytes, of the content currently cached.
+     *
+     * @return the cached bytes
+     */
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    /**
+     * Gets the number of files currently cached.
+     *
+     * @return the entry count
+     */
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the byte budget of the cache.
+     *
+     * @return the maximum cached bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    private String lookup(Path path, FileTime lastModified, long size) {
+        synchronized (entries) {
+            Entry entry = entries.get(path);
+            return entry != null && entry.lastModified().equals(lastModified) && entry.size() == size ? entry.content() : null;
+        }
+    }
+
+    private void store(Path path, Entry entry) {
+        synchronized (entries) {
+            Entry previous = entries.remove(path);
+            if (previous != null) weight -= previous.weight();
+            if (entry.weight() > maxBytes) return;
+
+            entries.put(path, entry);
+            weight += entry.weight();
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (weight > maxBytes) {
+                weight -= eldest.next().weight();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Estimates the bytes backing a string: one per character when every character fits in Latin-1
+     * and the JVM stores it compactly, two otherwise.
+     */
+    private static long weigh(String content) {
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) > 0xFF) return 2L * content.length();
+        }
+        return content.length();
+    }
+
+    private static String await(CompletableFuture<String> pending) throws IOException {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a file to load");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) throw cause;
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Cached content, the version of the file it was read from and its heap footprint.
+     */
+    private record Entry(String content, FileTime lastModified, long size, long weight) {
+    }
+
+    /**
+     * A file at a given modification time and size.
+     */
+    private record Version(Path path, FileTime lastModified, long size) {
+    }
+}
@@ -0,0 +1,384 @@
+package io.github.imecuadorian.library;
+
+import org.jetbrains.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import java.util.regex.*;
+import java.util.stream.*;
+
+/**
+ * In-memory inverted index over the files of a directory.
+ * <p>
+ * Files are listed with {@link Files#listFilesOnDirectory(FileType)}, read with {@link Files#readFile()}
+ * and split into terms on anything that is not a letter, digit or underscore, so whitespace of any kind and
+ * punctuation never end up inside a term. Each term maps to the files containing it and the zero-based
+ * positions of the term within each file. {@link #refresh()} indexes changed files in parallel and only re-reads
+ * files whose modification time or size changed; {@link #save(Path)} and {@link #load(String, Path)}
+ * persist the index so a restart only has to catch up on what changed since the snapshot.
+ */
+public class FileIndex {
+
+    private static final Pattern TERM = Pattern.compile("\\w+", Pattern.UNICODE_CHARACTER_CLASS);
+    private static final int SNAPSHOT_MAGIC = 0x47494458;
+    private static final int SNAPSHOT_VERSION = 3;
+
+    private final File directory;
+    private final NavigableMap<String, Map<String, int[]>> postings = new TreeMap<>();
+    private final Map<String, FileState> states = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Constructs an empty index for a directory. Call {@link #refresh()} to populate it.
+     *
+     * @param pathName the path to the directory to index
+     */
+    public FileIndex(String pathName) {
+        this.directory = new File(pathName);
+    }
+
+    /**
+     * Brings the index up to date with the directory.
+     * <p>
+     * New files and files whose modification time or size changed are read and tokenized in parallel;
+     * files that disappeared are dropped. Unchanged files are not read.
+     *
+     * @return the number of files that were added, re-indexed or removed
+     * @throws IOException if a file cannot be read
+     */
+    public int refresh() throws IOException {
+        List<String> names = new Files(directory.getPath()).listFilesOnDirectory(FileType.FILE);
+        Map<String, FileState> current = new HashMap<>();
+        for (String name : names) {
+            BasicFileAttributes attributes;
+            try {
+                attributes = java.nio.file.Files.readAttributes(directory.toPath().resolve(name), BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                continue;
+            }
+            current.put(name, new FileState(attributes.lastModifiedTime(), attributes.size(), Set.of()));
+        }
+
+        List<String> stale;
+        List<String> removed;
+        lock.readLock().lock();
+        try {
+            stale = current.entrySet().stream()
+                    .filter(entry -> !entry.getValue().sameVersion(states.get(entry.getKey())))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            removed = states.keySet().stream()
+                    .filter(name -> !current.containsKey(name))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<String, Map<String, int[]>> tokenized;
+        try {
+            tokenized = stale.parallelStream()
+                    .collect(Collectors.toConcurrentMap(name -> name, this::tokenize));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        lock.writeLock().lock();
+        try {
+            removed.forEach(this::unindex);
+            for (String name : stale) {
+                unindex(name);
+                Map<String, int[]> terms = tokenized.get(name);
+                if (terms.isEmpty() && !new File(directory, name).exists()) continue;
+                FileState state = current.get(name);
+                index(name, new FileState(state.lastModified(), state.size(), terms.keySet()), terms);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return stale.size() + removed.size();
+    }
+
+    /**
+     * Returns the names of the indexed files containing a term.
+     *
+     * @param term the exact term
+     * @return the sorted names of the matching files, empty if none
+     */
+    public SortedSet<String> search(@NotNull String term) {
+        lock.readLock().lock();
+        try {
+            return new TreeSet<>(postings.getOrDefault(term, Map.of()).keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the names of the indexed files containing any term that starts with a prefix.
+     *
+     * @param prefix the term prefix
+     * @return the sorted names of the matching files, empty if none
+     */
+    public SortedSet<String> searchPrefix(@NotNull String prefix) {
+        lock.readLock().lock();
+        try {
+            SortedSet<String> result = new TreeSet<>();
+            withPrefix(prefix).values().forEach(files -> result.addAll(files.keySet()));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the indexed terms that start with a prefix.
+     *
+     * @param prefix the term prefix
+     * @return the sorted matching terms, empty if none
+     */
+    public SortedSet<String> terms(@NotNull String prefix) {
+        lock.readLock().lock();
+        try {
+            return new TreeSet<>(withPrefix(prefix).keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the positions of a term within an indexed file.
+     *
+     * @param term     the exact term
+     * @param fileName the file name, as returned by {@link #search(String)}
+     * @return the ascending zero-based word positions, empty if the term does not occur in the file
+     */
+    public int[] positions(@NotNull String term, @NotNull String fileName) {
+        lock.readLock().lock();
+        try {
+            int[] positions = postings.getOrDefault(term, Map.of()).get(fileName);
+            return positions == null ? new int[0] : positions.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes a compact snapshot of the index.
+     * <p>
+     * File names and terms are stored once; positions are delta-encoded as variable-length integers.
+     * The snapshot is written to a temporary sibling and moved into place atomically, so a failed
+     * save leaves any previous snapshot intact.
+     *
+     * @param snapshot the file to write
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void save(@NotNull Path snapshot) throws IOException {
+        Path temporary = Files.temporarySibling(snapshot);
+        try {
+            write(temporary);
+            Files.publish(temporary, snapshot);
+        } catch (IOException | RuntimeException e) {
+            java.nio.file.Files.deleteIfExists(temporary);
+            throw e;
+        }
+    }
+
+    private void write(Path snapshot) throws IOException {
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(java.nio.file.Files.newOutputStream(snapshot)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+
+            Map<String, Integer> ids = new HashMap<>();
+            writeVarInt(out, states.size());
+            for (Map.Entry<String, FileState> entry : states.entrySet()) {
+                ids.put(entry.getKey(), ids.size());
+                writeString(out, entry.getKey());
+                out.writeLong(entry.getValue().lastModified().to(TimeUnit.NANOSECONDS));
+                out.writeLong(entry.getValue().size());
+            }
+
+            writeVarInt(out, postings.size());
+            for (Map.Entry<String, Map<String, int[]>> term : postings.entrySet()) {
+                writeString(out, term.getKey());
+                writeVarInt(out, term.getValue().size());
+                for (Map.Entry<String, int[]> posting : term.getValue().entrySet()) {
+                    writeVarInt(out, ids.get(posting.getKey()));
+                    int[] positions = posting.getValue();
+                    writeVarInt(out, positions.length);
+                    int previous = 0;
+                    for (int position : positions) {
+                        writeVarInt(out, position - previous);
+                        previous = position;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Restores an index from a snapshot written by {@link #save(Path)}.
+     * <p>
+     * The restored index reflects the directory at the time of the snapshot; call {@link #refresh()}
+     * to pick up files that changed since.
+     *
+     * @param pathName the path to the indexed directory
+     * @param snapshot the snapshot file
+     * @return the restored index
+     * @throws IOException if the snapshot cannot be read or is not a valid snapshot
+     */
+    public static FileIndex load(String pathName, @NotNull Path snapshot) throws IOException {
+        FileIndex index = new FileIndex(pathName);
+        // Every counted element takes at least one byte, so no count can exceed the snapshot size.
+        long limit = java.nio.file.Files.size(snapshot);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(java.nio.file.Files.newInputStream(snapshot)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Not a file index snapshot: " + snapshot);
+            }
+
+            int fileCount = readCount(in, limit);
+            String[] names = new String[fileCount];
+            long[][] versions = new long[fileCount][];
+            Map<String, Map<String, int[]>> termsByFile = new HashMap<>();
+            for (int i = 0; i < fileCount; i++) {
+                names[i] = readString(in, limit);
+                versions[i] = new long[]{in.readLong(), in.readLong()};
+                termsByFile.put(names[i], new HashMap<>());
+            }
+
+            int termCount = readCount(in, limit);
+            for (int i = 0; i < termCount; i++) {
+                String term = readString(in, limit);
+                int postingCount = readCount(in, limit);
+                for (int j = 0; j < postingCount; j++) {
+                    String name = names[readCount(in, fileCount - 1)];
+                    int[] positions = new int[readCount(in, limit)];
+                    int previous = 0;
+                    for (int k = 0; k < positions.length; k++) {
+                        previous += readVarInt(in);
+                        positions[k] = previous;
+                    }
+                    termsByFile.get(name).put(term, positions);
+                }
+            }
+
+            for (int i = 0; i < fileCount; i++) {
+                Map<String, int[]> terms = termsByFile.get(names[i]);
+                index.index(names[i], new FileState(FileTime.from(versions[i][0], TimeUnit.NANOSECONDS), versions[i][1], terms.keySet()), terms);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Reads one file and maps each of its terms to the ascending positions where it occurs.
+     * A file that vanished since the listing yields an empty map.
+     */
+    private Map<String, int[]> tokenize(String name) {
+        Files files = new Files(new File(directory, name).getPath());
+        String text;
+        try {
+            text = files.readFile();
+        } catch (FileNotFoundException e) {
+            return Map.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Map<String, List<Integer>> occurrences = new HashMap<>();
+        int position = 0;
+        Matcher matcher = TERM.matcher(text);
+        while (matcher.find()) {
+            occurrences.computeIfAbsent(matcher.group(), key -> new ArrayList<>()).add(position++);
+        }
+
+        Map<String, int[]> terms = new HashMap<>(occurrences.size() * 2);
+        occurrences.forEach((word, positions) -> terms.put(word, positions.stream().mapToInt(Integer::intValue).toArray()));
+        return terms;
+    }
+
+    private void index(String name, FileState state, Map<String, int[]> terms) {
+        states.put(name, state);
+        terms.forEach((term, positions) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(name, positions));
+    }
+
+    private void unindex(String name) {
+        FileState state = states.remove(name);
+        if (state == null) return;
+        for (String term : state.terms()) {
+            Map<String, int[]> files = postings.get(term);
+            files.remove(name);
+            if (files.isEmpty()) postings.remove(term);
+        }
+    }
+
+    private Map<String, Map<String, int[]>> withPrefix(String prefix) {
+        Map<String, Map<String, int[]>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, int[]>> entry : postings.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) break;
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Writes a string as its UTF-8 length followed by its bytes, with no limit on the length
+     * unlike {@link DataOutput#writeUTF(String)}.
+     */
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in, long limit) throws IOException {
+        byte[] bytes = new byte[readCount(in, limit)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads a count, length or id and rejects it unless it lies between {@code 0} and {@code max}, so a
+     * corrupt snapshot fails as an {@link IOException} instead of an oversized allocation or a bad index.
+     */
+    private static int readCount(DataInput in, long max) throws IOException {
+        int value = readVarInt(in);
+        if (value < 0 || value > max) throw new IOException("Corrupt snapshot");
+        return value;
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte current = in.readByte();
+            value |= (current & 0x7F) << shift;
+            if (current >= 0) return value;
+        }
+        throw new IOException("Malformed variable-length integer in snapshot");
+    }
+
+    /**
+     * The version of an indexed file and the terms it contributed.
+     */
+    private record FileState(FileTime lastModified, long size, Set<String> terms) {
+
+        boolean sameVersion(FileState other) {
+            return other != null && other.lastModified.equals(lastModified) && other.size == size;
+        }
+    }
+}
@@ -0,0 +1,677 @@
+package io.github.imecuadorian.library;
+
+import org.jetbrains.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.*;
+import java.util.stream.*;
+
+/**
+ * Utility class for managing file and directory operations.
+ * <p>
+ * This class provides methods for creating, reading, writing, and filtering files or directories.
+ * Interactive selection through a file chooser lives in the optional {@code ui} module.
+ * It uses a {@code Generic<String, File>} structure to manage associated data.
+ */
+public class Files {
+
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private final Generic<String, File> information;
+    private Pattern pattern;
+    private Matcher matcher;
+    /**
+     * Constructs a {@code Files} instance for managing a specific file or directory path.
+     *
+     * @param pathName the path to the file or directory
+     */
+    public Files(String pathName) {
+        this.information = new Generic<>(pathName, new File(pathName));
+    }
+
+    /**
+     * Writes text to the file.
+     *
+     * @param text  the content to write
+     * @param allow if {@code true}, the content will overwrite; otherwise it will append
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeFile(String text, boolean allow) throws IOException {
+        try (FileWriter writer = new FileWriter(information.getS1(), !allow)) {
+            writer.write(text + System.lineSeparator());
+        }
+    }
+
+    /**
+     * Reads the content of the file as a single string.
+     *
+     * @return the entire file content
+     * @throws IOException if the file cannot be read
+     */
+    public String readFile() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new FileReader(information.getS1()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                builder.append(line).append(System.lineSeparator());
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Reads the content of the file through a cache.
+     * <p>
+     * Returns the cached content while the file's modification time and size are unchanged,
+     * and reads the file as {@link #readFile()} does otherwise.
+     *
+     * @param cache the cache to read through
+     * @return the entire file content
+     * @throws IOException if the file cannot be read
+     */
+    public String readFile(@NotNull FileCache cache) throws IOException {
+        return cache.read(information.getS1());
+    }
+
+    /**
+     * Reads every delimited number in the file into an array of {@code double} values.
+     * <p>
+     * The file is parsed straight from its bytes in line-aligned chunks, one per core, so no
+     * {@code String} copy of the content is ever built. A first pass counts the values of each
+     * chunk so a second pass can parse them directly into their slice of the returned array,
+     * keeping the heap used close to the size of that array. Lines are separated by {@code \n}
+     * (a trailing {@code \r} is ignored), values are trimmed, and blank lines are skipped.
+     * When {@code columns} are given, only those zero-based columns are kept; values are
+     * returned in row order and, within a row, in the order they appear in the file.
+     *
+     * @param delimiter the ASCII character separating values on a line
+     * @param columns   the zero-based columns to keep, or none to keep every column
+     * @return an array of {@code double} values
+     * @throws IOException              if the file cannot be read
+     * @throws NumberFormatException    if any selected value is not a valid number
+     * @throws IllegalArgumentException if the delimiter is not ASCII, a column is negative, or no value is found
+     */
+    public double[] readNumbers(char delimiter, int... columns) throws IOException {
+        if (delimiter > 0x7F || delimiter == '\n') {
+            throw new IllegalArgumentException("Delimiter must be an ASCII character other than a line break");
+        }
+        int[] selected = selectColumns(columns);
+
+        try (FileChannel channel = FileChannel.open(information.getS1().toPath(), StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel, channel.size());
+            int chunks = bounds.length - 1;
+            MappedByteBuffer[] buffers = new MappedByteBuffer[chunks];
+            long[] offsets = new long[chunks + 1];
+            runInParallel(chunks, i -> {
+                buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, bounds[i], bounds[i + 1] - bounds[i]);
+                offsets[i + 1] = scanChunk(buffers[i], (byte) delimiter, selected, null, 0);
+                return 0;
+            });
+
+            for (int i = 0; i < chunks; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+            long total = offsets[chunks];
+            if (total == 0) {
+                throw new IllegalArgumentException("Array is empty");
+            }
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Too many values for a single array: " + total);
+            }
+
+            double[] result = new double[(int) total];
+            runInParallel(chunks, i -> scanChunk(buffers[i], (byte) delimiter, selected, result, (int) offsets[i]));
+            return result;
+        }
+    }
+
+    private static int[] selectColumns(int[] columns) {
+        if (columns.length == 0) return null;
+        if (Arrays.stream(columns).anyMatch(column -> column < 0)) {
+            throw new IllegalArgumentException("Column index cannot be negative");
+        }
+        return Arrays.stream(columns).sorted().distinct().toArray();
+    }
+
+    /**
+     * Splits {@code [0, size)} into one chunk per core, moving every inner boundary just past
+     * the next line break so no line is shared by two chunks.
+     */
+    private static long[] chunkBounds(FileChannel channel, long size) throws IOException {
+        long byCores = Runtime.getRuntime().availableProcessors();
+        long byMapLimit = (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE;
+        long bySize = Math.max(1, size / MIN_CHUNK_SIZE);
+        int chunks = (int) Math.max(byMapLimit, Math.min(byCores, bySize));
+
+        long[] bounds = new long[chunks + 1];
+        bounds[chunks] = size;
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        for (int i = 1; i < chunks; i++) {
+            long position = Math.max(bounds[i - 1], size / chunks * i);
+            bounds[i] = nextLineStart(channel, position, size, probe);
+        }
+        for (int i = 1; i <= chunks; i++) {
+            if (bounds[i] - bounds[i - 1] > Integer.MAX_VALUE) {
+                throw new IOException("Line too long to parse: starts near byte " + bounds[i - 1]);
+            }
+        }
+        return bounds;
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, long size, ByteBuffer probe) throws IOException {
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') return position + i + 1;
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Walks the selected values of a chunk. With a {@code null} target the values are only counted;
+     * otherwise they are parsed into {@code target} starting at {@code offset}.
+     * <p>
+     * Like {@code String.split}, empty values at the end of a line are dropped, so a trailing
+     * delimiter is tolerated; an empty value followed by a non-empty one is still invalid.
+     *
+     * @return the number of selected values in the chunk
+     */
+    private static int scanChunk(ByteBuffer buffer, byte delimiter, int[] selected, double[] target, int offset) {
+        int length = buffer.limit();
+        int count = 0;
+        int column = 0;
+        int tokenStart = 0;
+        boolean pendingEmpty = false;
+        for (int i = 0; i <= length; i++) {
+            byte current = i < length ? buffer.get(i) : (byte) '\n';
+            if (current != delimiter && current != '\n') continue;
+
+            int from = tokenStart;
+            int to = i;
+            while (from < to && isBlank(buffer.get(from))) from++;
+            while (to > from && isBlank(buffer.get(to - 1))) to--;
+
+            if (from == to) {
+                // Only an error if a non-empty value follows on the same line.
+                pendingEmpty |= isSelected(selected, column);
+            } else {
+                if (pendingEmpty) {
+                    throw new NumberFormatException("Invalid number format: ");
+                }
+                if (isSelected(selected, column)) {
+                    if (target != null) target[offset + count] = parseNumber(buffer, from, to);
+                    count++;
+                }
+            }
+            if (current == '\n') {
+                column = 0;
+                pendingEmpty = false;
+            } else {
+                column++;
+            }
+            tokenStart = i + 1;
+        }
+        return count;
+    }
+
+    private static boolean isSelected(int[] selected, int column) {
+        return selected == null || Arrays.binarySearch(selected, column) >= 0;
+    }
+
+    private static boolean isBlank(byte value) {
+        return value == ' ' || value == '\t' || value == '\r';
+    }
+
+    /**
+     * Parses a plain decimal of at most 15 digits exactly from the buffer, deferring anything
+     * else (exponents, {@code NaN}, long mantissas) to {@link Double#parseDouble(String)}.
+     */
+    private static double parseNumber(ByteBuffer buffer, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean dot = false;
+        boolean simple = i < to;
+        for (; i < to && simple; i++) {
+            byte current = buffer.get(i);
+            if (current >= '0' && current <= '9' && digits < 15) {
+                mantissa = mantissa * 10 + (current - '0');
+                digits++;
+                if (dot) scale++;
+            } else if (current == '.' && !dot) {
+                dot = true;
+            } else {
+                simple = false;
+            }
+        }
+        if (simple && digits > 0) {
+            double value = mantissa / POWERS_OF_TEN[scale];
+            return negative ? -value : value;
+        }
+
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+        String word = new String(bytes, StandardCharsets.ISO_8859_1);
+        try {
+            return Double.parseDouble(word);
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("Invalid number format: " + word);
+        }
+    }
+
+    /**
+     * Extracts all substrings from the given input text that match the specified regular expression.
+     *
+     * @param text  the input string to search within
+     * @param regex the regular expression to use for matching substrings
+     * @return a list of strings containing all matches found in the input text
+     */
+    public List<String> getWordsByRegularExpression(String text, String regex) {
+        List<String> matches = new ArrayList<>();
+        pattern = Pattern.compile(regex);
+        matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            matches.add(matcher.group());
+        }
+        return matches;
+    }
+    /**
+     * Creates the file or directory if it does not exist.
+     *
+     * @param fileType the type to create (FILE or DIRECTORY)
+     * @return {@code true} if the file or directory was created
+     * @throws IOException if file creation fails
+     */
+    public boolean createFile(FileType fileType) throws IOException {
+        Objects.requireNonNull(fileType, "FileType cannot be null");
+        File target = information.getS1();
+        if (target.exists()) return false;
+
+        return switch (fileType) {
+            case DIRECTORY -> target.mkdirs();
+            case FILE -> target.createNewFile();
+        };
+    }
+
+    /**
+     * Validates whether a given string matches a regex pattern.
+     *
+     * @param text  the input string
+     * @param regex the regular expression
+     * @return {@code true} if it matches
+     */
+    @Contract(pure = true)
+    public static boolean validateByRegularExpression(@NotNull String text, String regex) {
+        return text.matches(regex);
+    }
+
+    /**
+     * Replaces parts of the input text that match the given regex with the replacement.
+     *
+     * @param text        original string
+     * @param regex       pattern to match
+     * @param replacement replacement string
+     * @return the modified string
+     */
+    @Contract(pure = true)
+    public static @NotNull String replaceByRegularExpression(@NotNull String text, String regex, String replacement) {
+        return text.replaceAll(regex, replacement);
+    }
+
+    /**
+     * Finds all words in a given string that match a specific regular expression.
+     *
+     * @param text  the input string
+     * @param regex the regex pattern to match
+     * @return a list of matching words
+     */
+    public List<String> findWords(@NotNull String text, String regex) {
+        List<String> matches = new ArrayList<>();
+        information.setArray(text.split("( +|[,.;])"));
+        Arrays.stream(information.getArray())
+                .filter(word -> validateByRegularExpression(word, regex))
+                .forEach(matches::add);
+        return matches;
+    }
+
+    /**
+     * Lists the file and directory names at the current path if it is a directory.
+     *
+     * @return an array of file or directory names
+     */
+    public String[] listFiles() {
+        File file = information.getS1();
+        return file.isDirectory() ? Objects.requireNonNullElse(file.list(), new String[0]) : new String[0];
+    }
+
+    /**
+     * Lists only files or directories from the current path based on the given {@code FileType}.
+     *
+     * @param fileType type to filter by (FILE or DIRECTORY)
+     * @return list of matching entries
+     */
+    public List<String> listFilesOnDirectory(FileType fileType) {
+        Objects.requireNonNull(fileType, "FileType cannot be null");
+        information.setArray(listFiles());
+        if (information.getArray().length == 0) return information.getList();
+
+        Arrays.stream(information.getArray()).forEach(name -> {
+            File file = new File(information.getS1(), name);
+            boolean isMatch = switch (fileType) {
+                case DIRECTORY -> file.isDirectory();
+                case FILE -> file.isFile();
+            };
+            if (isMatch) information.addElement(name);
+        });
+
+        return information.getList();
+    }
+
+    /**
+     * Copies the file to a target without passing its content through the Java heap.
+     *
+     * @param target the file to write
+     * @param atomic if {@code true}, the copy is written to a temporary sibling and moved into place
+     *               atomically, so readers never see a partial file
+     * @return the written file, the bytes copied and the elapsed time
+     * @throws IOException if the file cannot be read or the target cannot be written
+     * @throws IllegalArgumentException if a target is the file itself
+     */
+    public TransferStats copyTo(@NotNull Path target, boolean atomic) throws IOException {
+        return copyTo(List.of(target), atomic);
+    }
+
+    /**
+     * Copies the file to several targets in parallel without passing its content through the Java heap.
+     *
+     * @param targets the files to write
+     * @param atomic  if {@code true}, each copy is published atomically, see {@link #copyTo(Path, boolean)}
+     * @return the written files, the total bytes copied and the elapsed time
+     * @throws IOException if the file cannot be read or a target cannot be written
+     * @throws IllegalArgumentException if a target is the file itself
+     */
+    public TransferStats copyTo(@NotNull List<Path> targets, boolean atomic) throws IOException {
+        long start = System.nanoTime();
+        Path file = information.getS1().toPath();
+        for (Path target : targets) {
+            requireDistinct(file, target);
+        }
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = source.size();
+            long bytes = runInParallel(targets.size(), i -> transfer(source, 0, size, targets.get(i), atomic));
+            return new TransferStats(List.copyOf(targets), bytes, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Concatenates several files into a target without passing their content through the Java heap.
+     * <p>
+     * Every source is transferred in parallel straight to its offset in the target.
+     *
+     * @param sources the files to concatenate, in order
+     * @param target  the file to write
+     * @param atomic  if {@code true}, the target is published atomically, see {@link #copyTo(Path, boolean)}
+     * @return the written file, the bytes copied and the elapsed time
+     * @throws IOException if a source cannot be read or the target cannot be written
+     * @throws IllegalArgumentException if the target is also one of the sources
+     */
+    public static TransferStats concatenate(@NotNull List<Path> sources, @NotNull Path target, boolean atomic) throws IOException {
+        long start = System.nanoTime();
+        long[] offsets = new long[sources.size() + 1];
+        for (int i = 0; i < sources.size(); i++) {
+            requireDistinct(sources.get(i), target);
+            offsets[i + 1] = offsets[i] + java.nio.file.Files.size(sources.get(i));
+        }
+        long total = offsets[sources.size()];
+
+        Path destination = atomic ? temporarySibling(target) : target;
+        try {
+            try (FileChannel out = FileChannel.open(destination, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                if (total > 0) {
+                    // transferFrom ignores positions past the end of the file, so size the target up front.
+                    out.write(ByteBuffer.allocate(1), total - 1);
+                }
+                runInParallel(sources.size(), i -> {
+                    long count = offsets[i + 1] - offsets[i];
+                    try (FileChannel in = FileChannel.open(sources.get(i), StandardOpenOption.READ)) {
+                        long done = 0;
+                        while (done < count) {
+                            long moved = out.transferFrom(in, offsets[i] + done, count - done);
+                            if (moved <= 0) throw new EOFException("Source shrank during transfer: " + sources.get(i));
+                            done += moved;
+                        }
+                    }
+                    return count;
+                });
+            }
+            if (atomic) publish(destination, target);
+        } catch (IOException | RuntimeException e) {
+            if (atomic) java.nio.file.Files.deleteIfExists(destination);
+            throw e;
+        }
+        return new TransferStats(List.of(target), total, System.nanoTime() - start);
+    }
+
+    /**
+     * Splits the file into parts of at most {@code maxBytes} bytes each, written in parallel.
+     * <p>
+     * Parts are created next to the file and named after it with a numeric suffix of at least three digits,
+     * e.g. {@code data.csv.001}, {@code data.csv.002}; with 1000 parts or more the suffix widens to keep every
+     * part the same length, so the parts sort in order. Once the parts are written, any consecutive
+     * parts left over from an earlier split of the file, such as {@code data.csv.004} after splitting
+     * into three parts, are deleted.
+     *
+     * @param maxBytes the maximum size of each part
+     * @param atomic   if {@code true}, each part is published atomically, see {@link #copyTo(Path, boolean)}
+     * @return the written parts, the bytes copied and the elapsed time
+     * @throws IOException if the file cannot be read or a part cannot be written
+     */
+    public TransferStats splitBySize(long maxBytes, boolean atomic) throws IOException {
+        if (maxBytes <= 0) throw new IllegalArgumentException("Part size must be positive");
+        long start = System.nanoTime();
+        try (FileChannel source = FileChannel.open(information.getS1().toPath(), StandardOpenOption.READ)) {
+            long size = source.size();
+            List<Long> bounds = new ArrayList<>();
+            for (long position = 0; position < size; position += maxBytes) {
+                bounds.add(position);
+            }
+            bounds.add(size);
+            return split(source, bounds, atomic, start);
+        }
+    }
+
+    /**
+     * Splits the file into parts of at most {@code maxLines} lines each, written in parallel.
+     * <p>
+     * Lines are separated by {@code \n} and kept whole. Parts are named as in {@link #splitBySize(long, boolean)}.
+     *
+     * @param maxLines the maximum number of lines in each part
+     * @param atomic   if {@code true}, each part is published atomically, see {@link #copyTo(Path, boolean)}
+     * @return the written parts, the bytes copied and the elapsed time
+     * @throws IOException if the file cannot be read or a part cannot be written
+     */
+    public TransferStats splitByLines(long maxLines, boolean atomic) throws IOException {
+        if (maxLines <= 0) throw new IllegalArgumentException("Lines per part must be positive");
+        long start = System.nanoTime();
+        try (FileChannel source = FileChannel.open(information.getS1().toPath(), StandardOpenOption.READ)) {
+            long size = source.size();
+            List<Long> bounds = new ArrayList<>();
+            bounds.add(0L);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+            long lines = 0;
+            long position = 0;
+            while (position < size) {
+                buffer.clear();
+                int read = source.read(buffer, position);
+                if (read <= 0) break;
+                for (int i = 0; i < read; i++) {
+                    if (buffer.get(i) == '\n' && ++lines % maxLines == 0 && position + i + 1 < size) {
+                        bounds.add(position + i + 1);
+                    }
+                }
+                position += read;
+            }
+            if (size > 0) bounds.add(size);
+            return split(source, bounds, atomic, start);
+        }
+    }
+
+    private TransferStats split(FileChannel source, List<Long> bounds, boolean atomic, long start) throws IOException {
+        Path file = information.getS1().toPath();
+        String name = file.getFileName().toString();
+        int width = Math.max(3, String.valueOf(bounds.size() - 1).length());
+        String format = "%s.%0" + width + "d";
+        List<Path> parts = new ArrayList<>();
+        for (int i = 1; i < bounds.size(); i++) {
+            Path part = file.resolveSibling(String.format(format, name, i));
+            requireDistinct(file, part);
+            parts.add(part);
+        }
+        long bytes = runInParallel(parts.size(),
+                i -> transfer(source, bounds.get(i), bounds.get(i + 1) - bounds.get(i), parts.get(i), atomic));
+        // Left in place, parts of an earlier split would be picked up along with the new ones.
+        for (int digits = 3; digits <= 10; digits++) {
+            String previous = "%s.%0" + digits + "d";
+            int stale = digits == width ? parts.size() + 1 : 1;
+            while (java.nio.file.Files.deleteIfExists(file.resolveSibling(String.format(previous, name, stale)))) {
+                stale++;
+            }
+        }
+        return new TransferStats(List.copyOf(parts), bytes, System.nanoTime() - start);
+    }
+
+    /**
+     * Transfers {@code count} bytes starting at {@code position} of the source into a fresh target file.
+     */
+    private static long transfer(FileChannel source, long position, long count, Path target, boolean atomic) throws IOException {
+        Path destination = atomic ? temporarySibling(target) : target;
+        try {
+            try (FileChannel out = FileChannel.open(destination, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                long done = 0;
+                while (done < count) {
+                    long moved = source.transferTo(position + done, count - done, out);
+                    if (moved <= 0) throw new EOFException("Source shrank during transfer to " + target);
+                    done += moved;
+                }
+            }
+            if (atomic) publish(destination, target);
+        } catch (IOException | RuntimeException e) {
+            if (atomic) java.nio.file.Files.deleteIfExists(destination);
+            throw e;
+        }
+        return count;
+    }
+
+    /**
+     * Fails before anything is truncated when {@code target} is the same file as {@code source}.
+     */
+    private static void requireDistinct(Path source, Path target) throws IOException {
+        if (java.nio.file.Files.exists(target) && java.nio.file.Files.isSameFile(source, target)) {
+            throw new IllegalArgumentException("Target is also a source: " + target);
+        }
+    }
+
+    /**
+     * Creates an empty temporary file next to {@code target} with the permissions a plain write would
+     * leave: those of the existing target, or the defaults for a new file.
+     */
+    static Path temporarySibling(Path target) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        while (true) {
+            Path temporary = directory.resolve("." + target.getFileName() + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+            try {
+                java.nio.file.Files.createFile(temporary);
+            } catch (FileAlreadyExistsException e) {
+                continue;
+            }
+            if (java.nio.file.Files.exists(target)) {
+                try {
+                    java.nio.file.Files.setPosixFilePermissions(temporary, java.nio.file.Files.getPosixFilePermissions(target));
+                } catch (UnsupportedOperationException e) {
+                    // Not a POSIX file system; the default permissions are all there is to keep.
+                } catch (IOException | RuntimeException e) {
+                    java.nio.file.Files.deleteIfExists(temporary);
+                    throw e;
+                }
+            }
+            return temporary;
+        }
+    }
+
+    /**
+     * Atomically replaces {@code target} with a file prepared by {@link #temporarySibling(Path)}.
+     */
+    static void publish(Path temporary, Path target) throws IOException {
+        java.nio.file.Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Runs {@code count} indexed tasks on the common pool and returns the sum of their results,
+     * rethrowing the first failure in index order.
+     */
+    private static long runInParallel(int count, IndexedTask task) throws IOException {
+        long[] moved = new long[count];
+        Exception[] failures = new Exception[count];
+        IntStream.range(0, count).parallel().forEach(i -> {
+            try {
+                moved[i] = task.run(i);
+            } catch (IOException | RuntimeException e) {
+                failures[i] = e;
+            }
+        });
+
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            if (failures[i] instanceof IOException e) throw e;
+            if (failures[i] instanceof RuntimeException e) throw e;
+            total += moved[i];
+        }
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        long run(int index) throws IOException;
+    }
+
+    /**
+     * Gets the current managed file.
+     *
+     * @return the current {@code File}
+     */
+    public File getFile() {
+        return information.getS1();
+    }
+
+    /**
+     * Sets a new file to be managed.
+     *
+     * @param file the new {@code File}
+     */
+    public void setFile(File file) {
+        information.setS1(file);
+    }
+}
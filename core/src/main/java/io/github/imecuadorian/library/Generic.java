@@ -4,6 +4,7 @@ import lombok.*;
 import org.jetbrains.annotations.*;
 
 import java.util.*;
+import java.util.stream.*;
 
 import static java.util.Arrays.*;
 import static java.util.Comparator.*;
@@ -93,17 +94,99 @@ public class Generic<T, S> {
      * @return {@code true} if {@code t1.toString().equals(t2.toString())}, {@code false} otherwise
      */
     public boolean validateWord(@NotNull Generic<?, ?> values) {
-        return values.getT1().toString().equals(values.getT2().toString());
+        return sameWord(values.getT1(), values.getT2());
+    }
+
+    /**
+     * Validates a batch of pairs with {@link #validateWord(Generic)} semantics, in parallel.
+     * <p>
+     * {@code CharSequence} elements are compared character by character, so no string is built for them.
+     *
+     * @param pairs the {@code Generic} instances whose {@code t1} and {@code t2} are compared
+     * @return the ascending indices of the pairs whose elements differ
+     */
+    public int[] validateWords(@NotNull List<? extends Generic<?, ?>> pairs) {
+        List<? extends Generic<?, ?>> indexed = pairs instanceof RandomAccess ? pairs : new ArrayList<>(pairs);
+        return IntStream.range(0, indexed.size())
+                .parallel()
+                .filter(i -> !validateWord(indexed.get(i)))
+                .toArray();
+    }
+
+    /**
+     * Validates a batch of pairs with {@link #validateWord(Generic)} semantics, in parallel.
+     *
+     * @param pairs the {@code Generic} instances whose {@code t1} and {@code t2} are compared
+     * @return the ascending indices of the pairs whose elements differ
+     * @see #validateWords(List)
+     */
+    public int[] validateWords(@NotNull Generic<?, ?>[] pairs) {
+        return validateWords(Arrays.asList(pairs));
     }
 
     /**
      * Validates whether two {@code Number} elements have equal values.
+     * <p>
+     * Two integral values ({@code Byte}, {@code Short}, {@code Integer}, {@code Long}) are compared as {@code long},
+     * so large values that collapse to the same {@code double} are still told apart; any other pair is compared
+     * as {@code double}.
      *
      * @param values a {@code Generic} instance with numeric elements
-     * @return {@code true} if {@code t1.doubleValue() == t2.doubleValue()}, {@code false} otherwise
+     * @return {@code true} if the values are equal, {@code false} otherwise
      */
     public boolean validateNumber(@NotNull Generic<? extends Number, ?> values) {
-        return values.getT1().doubleValue() == values.getT2().doubleValue();
+        return sameNumber(values.getT1(), values.getT2());
+    }
+
+    /**
+     * Validates a batch of numeric pairs with {@link #validateNumber(Generic)} semantics, in parallel.
+     *
+     * @param pairs the {@code Generic} instances whose numeric {@code t1} and {@code t2} are compared
+     * @return the ascending indices of the pairs whose values differ
+     */
+    public int[] validateNumbers(@NotNull List<? extends Generic<? extends Number, ?>> pairs) {
+        List<? extends Generic<? extends Number, ?>> indexed = pairs instanceof RandomAccess ? pairs : new ArrayList<>(pairs);
+        return IntStream.range(0, indexed.size())
+                .parallel()
+                .filter(i -> !validateNumber(indexed.get(i)))
+                .toArray();
+    }
+
+    /**
+     * Validates a batch of numeric pairs in parallel.
+     *
+     * @param pairs the {@code Generic} instances whose numeric {@code t1} and {@code t2} are compared
+     * @return the ascending indices of the pairs whose values differ
+     * @see #validateNumbers(List)
+     */
+    public int[] validateNumbers(@NotNull Generic<? extends Number, ?>[] pairs) {
+        return validateNumbers(Arrays.asList(pairs));
+    }
+
+    private static boolean sameWord(@NotNull Object first, @NotNull Object second) {
+        if (first instanceof String a && second instanceof String b) {
+            return a.equals(b);
+        }
+        if (first instanceof CharSequence a && second instanceof CharSequence b) {
+            int length = a.length();
+            if (length != b.length()) return false;
+            for (int i = 0; i < length; i++) {
+                if (a.charAt(i) != b.charAt(i)) return false;
+            }
+            return true;
+        }
+        return first.toString().equals(second.toString());
+    }
+
+    private static boolean sameNumber(@NotNull Number first, @NotNull Number second) {
+        if (isIntegral(first) && isIntegral(second)) {
+            return first.longValue() == second.longValue();
+        }
+        return first.doubleValue() == second.doubleValue();
+    }
+
+    private static boolean isIntegral(Number value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
     }
 
     /**
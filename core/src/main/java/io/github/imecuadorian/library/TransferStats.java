@@ -0,0 +1,31 @@
+package io.github.imecuadorian.library;
+
+import lombok.*;
+
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Result of a bulk file transfer performed by {@link Files}.
+ * <p>
+ * Holds the files that were written, the number of bytes moved and the elapsed time,
+ * from which the throughput is derived.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class TransferStats {
+
+    private final List<Path> targets;
+    private final long bytes;
+    private final long nanos;
+
+    /**
+     * Computes the throughput of the transfer.
+     *
+     * @return the number of bytes moved per second
+     */
+    public double getBytesPerSecond() {
+        return nanos == 0 ? bytes : bytes * 1_000_000_000.0 / nanos;
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * Headless core of the generic library: {@code Generic}, file I/O and regular expression helpers.
+ * <p>
+ * Depends only on {@code java.base}, so it can be linked into a minimal runtime image.
+ */
+module io.github.imecuadorian.library {
+    requires static lombok;
+    requires static org.jetbrains.annotations;
+
+    exports io.github.imecuadorian.library;
+}
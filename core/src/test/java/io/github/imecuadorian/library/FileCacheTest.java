@@ -0,0 +1,192 @@
+package io.github.imecuadorian.library;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link FileCache} content cache.
+ * <p>
+ * Each test reads files written to a {@link TempDir} through {@link Files#readFile(FileCache)}
+ * and follows the Arrange-Act-Assert pattern.
+ */
+class FileCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that a second read of an unchanged file is served from the cache.
+     */
+    @Test
+    void testReadFileHitsCache() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("config.txt");
+        java.nio.file.Files.writeString(filePath, "key=value");
+        Files files = new Files(filePath.toString());
+        FileCache cache = new FileCache(1_024);
+
+        // Act
+        String first = files.readFile(cache);
+        String second = files.readFile(cache);
+
+        // Assert
+        assertEquals(files.readFile(), first, "Cached content should match readFile");
+        assertSame(first, second, "The second read should return the cached content");
+        assertEquals(1, cache.getHitCount(), "The second read should be a hit");
+        assertEquals(1, cache.getMissCount(), "Only the first read should miss");
+        assertEquals(0.5, cache.getHitRatio(), 1e-9, "Hit ratio should reflect hits over reads");
+    }
+
+    /**
+     * Tests that a file whose modification time and size changed is reloaded.
+     */
+    @Test
+    void testReadFileReloadsChangedFile() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("template.txt");
+        java.nio.file.Files.writeString(filePath, "old");
+        Files files = new Files(filePath.toString());
+        FileCache cache = new FileCache(1_024);
+        files.readFile(cache);
+
+        // Act
+        java.nio.file.Files.writeString(filePath, "new content");
+        java.nio.file.Files.setLastModifiedTime(filePath, FileTime.fromMillis(1_000));
+        String content = files.readFile(cache);
+
+        // Assert
+        assertTrue(content.startsWith("new content"), "Changed file should be reloaded");
+        assertEquals(2, cache.getLoadCount(), "The file should be read twice");
+        assertEquals(1, cache.getSize(), "The stale entry should be replaced");
+    }
+
+    /**
+     * Tests that a same-size rewrite is reloaded when its modification time moves by less than a millisecond.
+     */
+    @Test
+    void testReadFileReloadsSubMillisecondChange() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("feature.txt");
+        java.nio.file.Files.writeString(filePath, "flag=on ");
+        long base = TimeUnit.SECONDS.toNanos(1_000_000_000);
+        java.nio.file.Files.setLastModifiedTime(filePath, FileTime.from(base, TimeUnit.NANOSECONDS));
+        Files files = new Files(filePath.toString());
+        FileCache cache = new FileCache(1_024);
+        files.readFile(cache);
+
+        // Act
+        java.nio.file.Files.writeString(filePath, "flag=off");
+        FileTime changed = FileTime.from(base + 800_000, TimeUnit.NANOSECONDS);
+        java.nio.file.Files.setLastModifiedTime(filePath, changed);
+        Assumptions.assumeTrue(java.nio.file.Files.getLastModifiedTime(filePath).equals(changed),
+                "Requires sub-millisecond modification times");
+        String content = files.readFile(cache);
+
+        // Assert
+        assertTrue(content.startsWith("flag=off"), "The rewritten file should be reloaded");
+        assertEquals(2, cache.getLoadCount(), "The file should be read twice");
+    }
+
+    /**
+     * Tests that least recently used entries are evicted to stay under the byte budget.
+     */
+    @Test
+    void testEvictsLeastRecentlyUsed() throws IOException {
+        // Arrange
+        long entryWeight = ("1234" + System.lineSeparator()).length();
+        FileCache cache = new FileCache(2 * entryWeight + 1);
+        List<Files> files = new ArrayList<>();
+        for (String name : List.of("a.txt", "b.txt", "c.txt")) {
+            Path filePath = tempDir.resolve(name);
+            java.nio.file.Files.writeString(filePath, "1234");
+            files.add(new Files(filePath.toString()));
+        }
+
+        // Act
+        files.get(0).readFile(cache);
+        files.get(1).readFile(cache);
+        files.get(0).readFile(cache);
+        files.get(2).readFile(cache);
+        files.get(0).readFile(cache);
+
+        // Assert
+        assertEquals(1, cache.getEvictionCount(), "One entry should be evicted");
+        assertEquals(2 * entryWeight, cache.getWeight(), "Cached bytes should stay under the budget");
+        assertEquals(2, cache.getHitCount(), "The recently used file should survive eviction");
+    }
+
+    /**
+     * Tests that entries are weighed by the heap footprint of the cached content rather than the file size.
+     * Verifies that text outside Latin-1 counts two bytes per character.
+     */
+    @Test
+    void testWeighsCachedContent() throws IOException {
+        // Arrange
+        Path latin = tempDir.resolve("latin.txt");
+        Path greek = tempDir.resolve("greek.txt");
+        java.nio.file.Files.writeString(latin, "abc");
+        java.nio.file.Files.writeString(greek, "\u03b1\u03b2\u03b3", java.nio.charset.StandardCharsets.UTF_8);
+        FileCache cache = new FileCache(1_024);
+
+        // Act
+        String latinContent = new Files(latin.toString()).readFile(cache);
+        long latinWeight = cache.getWeight();
+        String greekContent = new Files(greek.toString()).readFile(cache);
+
+        // Assert
+        assertEquals(latinContent.length(), latinWeight, "Latin-1 content should weigh one byte per character");
+        assertEquals(latinContent.length() + 2L * greekContent.length(), cache.getWeight(),
+                "Content outside Latin-1 should weigh two bytes per character");
+    }
+
+    /**
+     * Tests that concurrent misses for the same file trigger a single load.
+     */
+    @Test
+    void testConcurrentMissesShareOneLoad() throws Exception {
+        // Arrange
+        Path filePath = tempDir.resolve("shared.txt");
+        java.nio.file.Files.writeString(filePath, "shared");
+        FileCache cache = new FileCache(1_024);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> reads = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 32; i++) {
+            reads.add(executor.submit(() -> {
+                start.await();
+                return new Files(filePath.toString()).readFile(cache);
+            }));
+        }
+        start.countDown();
+        for (Future<String> read : reads) {
+            assertTrue(read.get().startsWith("shared"), "Every reader should see the content");
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(1, cache.getLoadCount(), "The file should be read only once");
+    }
+
+    /**
+     * Tests that reading a missing file through the cache fails like readFile.
+     */
+    @Test
+    void testReadMissingFile() {
+        // Arrange
+        Files files = new Files(tempDir.resolve("missing.txt").toString());
+        FileCache cache = new FileCache(1_024);
+
+        // Act & Assert
+        assertThrows(FileNotFoundException.class, () -> files.readFile(cache), "Missing files should not be cached");
+    }
+}
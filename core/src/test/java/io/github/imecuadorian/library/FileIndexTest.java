@@ -0,0 +1,176 @@
+package io.github.imecuadorian.library;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link FileIndex} inverted index.
+ * <p>
+ * Each test indexes files written to a {@link TempDir} and follows the Arrange-Act-Assert pattern.
+ */
+class FileIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests the search, positions and prefix methods after a first refresh.
+     * Verifies that terms are found in every file that contains them, at the right positions.
+     */
+    @Test
+    void testRefreshAndSearch() throws IOException {
+        // Arrange
+        java.nio.file.Files.writeString(tempDir.resolve("a.txt"), "hello world, hello again\nsecond line world");
+        java.nio.file.Files.writeString(tempDir.resolve("b.txt"), "help wanted. world");
+        java.nio.file.Files.createDirectory(tempDir.resolve("nested"));
+        FileIndex index = new FileIndex(tempDir.toString());
+
+        // Act
+        int indexed = index.refresh();
+
+        // Assert
+        assertEquals(2, indexed, "Only the two files should be indexed");
+        assertEquals(Set.of("a.txt", "b.txt"), index.search("world"), "Both files contain 'world'");
+        assertEquals(Set.of("a.txt"), index.search("again"), "Only a.txt contains 'again'");
+        assertTrue(index.search("missing").isEmpty(), "Unknown terms should match no file");
+        assertArrayEquals(new int[]{0, 2}, index.positions("hello", "a.txt"), "Positions should be word offsets");
+        assertEquals(Set.of("hello", "help"), index.terms("hel"), "Prefix should list matching terms");
+        assertEquals(Set.of("a.txt", "b.txt"), index.searchPrefix("hel"), "Prefix should match both files");
+    }
+
+    /**
+     * Tests the refresh method on text separated by tabs and punctuation.
+     * Verifies that separators never end up inside a term.
+     */
+    @Test
+    void testRefreshSplitsOnTabsAndPunctuation() throws IOException {
+        // Arrange
+        java.nio.file.Files.writeString(tempDir.resolve("a.txt"), "foo\tbar (baz) qux!");
+        FileIndex index = new FileIndex(tempDir.toString());
+
+        // Act
+        index.refresh();
+
+        // Assert
+        assertEquals(Set.of("a.txt"), index.search("bar"), "Tab-separated words should be terms");
+        assertEquals(Set.of("a.txt"), index.search("baz"), "Parentheses should not be part of a term");
+        assertEquals(Set.of("a.txt"), index.search("qux"), "Trailing punctuation should not be part of a term");
+        assertEquals(Set.of("bar", "baz", "foo", "qux"), index.terms(""), "Only the words should be indexed");
+    }
+
+    /**
+     * Tests the refresh method after files change.
+     * Verifies that only changed files are re-indexed and removed files are dropped.
+     */
+    @Test
+    void testRefreshIsIncremental() throws IOException {
+        // Arrange
+        Path first = tempDir.resolve("a.txt");
+        Path second = tempDir.resolve("b.txt");
+        java.nio.file.Files.writeString(first, "alpha beta");
+        java.nio.file.Files.writeString(second, "gamma");
+        FileIndex index = new FileIndex(tempDir.toString());
+        index.refresh();
+
+        // Act
+        int unchanged = index.refresh();
+        java.nio.file.Files.writeString(second, "delta epsilon");
+        java.nio.file.Files.setLastModifiedTime(second, FileTime.fromMillis(1_000));
+        java.nio.file.Files.delete(first);
+        int changed = index.refresh();
+
+        // Assert
+        assertEquals(0, unchanged, "Nothing should be re-indexed when no file changed");
+        assertEquals(2, changed, "One update and one removal should be applied");
+        assertTrue(index.search("alpha").isEmpty(), "Terms of removed files should be dropped");
+        assertTrue(index.search("gamma").isEmpty(), "Old terms of changed files should be dropped");
+        assertEquals(Set.of("b.txt"), index.search("epsilon"), "New terms should be indexed");
+    }
+
+    /**
+     * Tests the save and load methods.
+     * Verifies that a restored index answers the same queries without re-reading unchanged files.
+     */
+    @Test
+    void testSaveAndLoad() throws IOException {
+        // Arrange
+        Path directory = java.nio.file.Files.createDirectory(tempDir.resolve("docs"));
+        java.nio.file.Files.writeString(directory.resolve("a.txt"), "one two two three");
+        FileIndex index = new FileIndex(directory.toString());
+        index.refresh();
+        Path snapshot = tempDir.resolve("index.snapshot");
+
+        // Act
+        index.save(snapshot);
+        FileIndex restored = FileIndex.load(directory.toString(), snapshot);
+
+        // Assert
+        assertEquals(Set.of("a.txt"), restored.search("two"), "Restored index should find the term");
+        assertArrayEquals(new int[]{1, 2}, restored.positions("two", "a.txt"), "Positions should survive the snapshot");
+        assertEquals(0, restored.refresh(), "Unchanged files should not be re-indexed after loading");
+    }
+
+    /**
+     * Tests the save and load methods with a term longer than {@link DataOutput#writeUTF(String)} allows.
+     * Verifies that long tokens, as found in minified or encoded content, survive the snapshot.
+     */
+    @Test
+    void testSaveAndLoadWithLongTerm() throws IOException {
+        // Arrange
+        Path directory = java.nio.file.Files.createDirectory(tempDir.resolve("docs"));
+        String longTerm = "x".repeat(70_000);
+        java.nio.file.Files.writeString(directory.resolve("blob.txt"), "start " + longTerm);
+        FileIndex index = new FileIndex(directory.toString());
+        index.refresh();
+        Path snapshot = tempDir.resolve("index.snapshot");
+
+        // Act
+        index.save(snapshot);
+        FileIndex restored = FileIndex.load(directory.toString(), snapshot);
+
+        // Assert
+        assertEquals(Set.of("blob.txt"), restored.search(longTerm), "The long term should be restored");
+        try (var entries = java.nio.file.Files.list(tempDir)) {
+            assertEquals(2, entries.count(), "No temporary snapshot file should remain");
+        }
+    }
+
+    /**
+     * Tests the load method on damaged snapshots.
+     * Verifies that a corrupt byte anywhere past the header fails as an {@link IOException}.
+     */
+    @Test
+    void testLoadCorruptSnapshot() throws IOException {
+        // Arrange
+        Path directory = java.nio.file.Files.createDirectory(tempDir.resolve("docs"));
+        java.nio.file.Files.writeString(directory.resolve("a.txt"), "one two two three");
+        java.nio.file.Files.writeString(directory.resolve("b.txt"), "three four");
+        FileIndex index = new FileIndex(directory.toString());
+        index.refresh();
+        Path snapshot = tempDir.resolve("index.snapshot");
+        index.save(snapshot);
+        byte[] valid = java.nio.file.Files.readAllBytes(snapshot);
+
+        for (int i = 8; i < valid.length; i++) {
+            for (byte value : new byte[]{(byte) 0xFF, 0x7F}) {
+                byte[] corrupt = valid.clone();
+                corrupt[i] = value;
+                java.nio.file.Files.write(snapshot, corrupt);
+
+                // Act & Assert
+                try {
+                    FileIndex.load(directory.toString(), snapshot);
+                } catch (IOException e) {
+                    // Rejected as corrupt; any other exception fails the test.
+                }
+            }
+        }
+    }
+}
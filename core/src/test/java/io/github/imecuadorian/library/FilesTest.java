@@ -0,0 +1,580 @@
+package io.github.imecuadorian.library;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link Files} utility class.
+ * <p>
+ * This class contains unit tests for verifying the functionality of the Files class,
+ * which provides methods for file and directory operations such as creating, reading,
+ * writing, filtering, and selecting files or directories.
+ * <p>
+ * The tests use JUnit 5's {@link TempDir} annotation to create temporary directories
+ * and files for testing, ensuring that tests don't interfere with the actual file system
+ * and are automatically cleaned up after test execution.
+ * <p>
+ * Each test method focuses on testing a specific method or functionality of the Files class,
+ * following the Arrange-Act-Assert pattern to ensure clear and maintainable tests.
+ */
+class FilesTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests the constructor of the Files class.
+     * Verifies that a Files object is correctly initialized with a given path.
+     */
+    @Test
+    void testConstructor() {
+        // Arrange
+        String pathName = tempDir.toString();
+
+        // Act
+        Files files = new Files(pathName);
+
+        // Assert
+        assertNotNull(files, "Files object should not be null");
+        assertEquals(tempDir.toFile(), files.getFile(), "File object should match the provided path");
+    }
+
+    /**
+     * Tests the createFile method with FILE type.
+     * Verifies that a file is correctly created when it doesn't exist.
+     */
+    @Test
+    void testCreateFile() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("testFile.txt");
+        Files files = new Files(filePath.toString());
+
+        // Act
+        boolean result = files.createFile(FileType.FILE);
+
+        // Assert
+        assertTrue(result, "File creation should return true");
+        assertTrue(java.nio.file.Files.exists(filePath), "File should exist after creation");
+    }
+
+    /**
+     * Tests the createFile method with DIRECTORY type.
+     * Verifies that a directory is correctly created when it doesn't exist.
+     */
+    @Test
+    void testCreateDirectory() throws IOException {
+        // Arrange
+        Path dirPath = tempDir.resolve("testDir");
+        Files files = new Files(dirPath.toString());
+
+        // Act
+        boolean result = files.createFile(FileType.DIRECTORY);
+
+        // Assert
+        assertTrue(result, "Directory creation should return true");
+        assertTrue(java.nio.file.Files.exists(dirPath), "Directory should exist after creation");
+        assertTrue(java.nio.file.Files.isDirectory(dirPath), "Created path should be a directory");
+    }
+
+    /**
+     * Tests the createFile method when the file already exists.
+     * Verifies that the method returns false when attempting to create an existing file.
+     */
+    @Test
+    void testCreateFileWhenExists() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("existingFile.txt");
+        java.nio.file.Files.createFile(filePath);
+        Files files = new Files(filePath.toString());
+
+        // Act
+        boolean result = files.createFile(FileType.FILE);
+
+        // Assert
+        assertFalse(result, "Creating an existing file should return false");
+    }
+
+    /**
+     * Tests the writeFile method in append mode.
+     * Verifies that content is correctly appended to an existing file.
+     */
+    @Test
+    void testWriteFileAppend() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("appendTest.txt");
+        Files files = new Files(filePath.toString());
+        files.createFile(FileType.FILE);
+        
+        // Act
+        files.writeFile("First line", false);
+        files.writeFile("Second line", false);
+        
+        // Assert
+        String content = new String(java.nio.file.Files.readAllBytes(filePath));
+        assertTrue(content.contains("First line"), "File should contain the first line");
+        assertTrue(content.contains("Second line"), "File should contain the second line");
+    }
+
+    /**
+     * Tests the writeFile method in overwrite mode.
+     * Verifies that content correctly overwrites an existing file.
+     */
+    @Test
+    void testWriteFileOverwrite() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("overwriteTest.txt");
+        Files files = new Files(filePath.toString());
+        files.createFile(FileType.FILE);
+        
+        // Act
+        files.writeFile("Original content", false);
+        files.writeFile("New content", true);
+        
+        // Assert
+        String content = new String(java.nio.file.Files.readAllBytes(filePath));
+        assertFalse(content.contains("Original content"), "File should not contain the original content");
+        assertTrue(content.contains("New content"), "File should contain the new content");
+    }
+
+    /**
+     * Tests the readFile method.
+     * Verifies that the content of a file is correctly read.
+     */
+    @Test
+    void testReadFile() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("readTest.txt");
+        String expectedContent = "Test content" + System.lineSeparator();
+        java.nio.file.Files.writeString(filePath, expectedContent);
+        Files files = new Files(filePath.toString());
+        
+        // Act
+        String content = files.readFile();
+        
+        // Assert
+        assertEquals(expectedContent, content, "Read content should match the written content");
+    }
+
+    /**
+     * Tests the readNumbers method.
+     * Verifies that every delimited value is parsed, trimmed, and blank lines are skipped.
+     */
+    @Test
+    void testReadNumbers() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("numbers.csv");
+        java.nio.file.Files.writeString(filePath, "1.5, 2 ,3\r\n\n-4,5e2,0.1\n7,8,9");
+        Files files = new Files(filePath.toString());
+
+        // Act
+        double[] result = files.readNumbers(',');
+
+        // Assert
+        assertArrayEquals(new double[]{1.5, 2.0, 3.0, -4.0, 500.0, 0.1, 7.0, 8.0, 9.0}, result,
+                "All values should be parsed in file order");
+    }
+
+    /**
+     * Tests the readNumbers method with column selection.
+     * Verifies that only the requested columns are kept and invalid values elsewhere are ignored.
+     */
+    @Test
+    void testReadNumbersWithColumns() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("columns.csv");
+        java.nio.file.Files.writeString(filePath, "1;name;10\n2;other;20\n");
+        Files files = new Files(filePath.toString());
+
+        // Act
+        double[] result = files.readNumbers(';', 2, 0);
+
+        // Assert
+        assertArrayEquals(new double[]{1.0, 10.0, 2.0, 20.0}, result, "Only columns 0 and 2 should be returned");
+    }
+
+    /**
+     * Tests the readNumbers method with very large column indices.
+     * Verifies that selecting a column beyond the row width keeps only the existing columns.
+     */
+    @Test
+    void testReadNumbersWithLargeColumnIndex() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("wide.csv");
+        java.nio.file.Files.writeString(filePath, "1,2\n3,4\n");
+        Files files = new Files(filePath.toString());
+
+        // Act
+        double[] result = files.readNumbers(',', 1, Integer.MAX_VALUE, 1);
+
+        // Assert
+        assertArrayEquals(new double[]{2.0, 4.0}, result, "Missing columns should be ignored and duplicates collapsed");
+    }
+
+    /**
+     * Tests the readNumbers method with trailing delimiters.
+     * Verifies that empty values at the end of a line are dropped, as getValuesFromWords does.
+     */
+    @Test
+    void testReadNumbersWithTrailingDelimiter() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("trailing.csv");
+        java.nio.file.Files.writeString(filePath, "1,2,\n3,4,,\n");
+        Path invalidPath = tempDir.resolve("gap.csv");
+        java.nio.file.Files.writeString(invalidPath, "1,,2\n");
+        Files files = new Files(filePath.toString());
+        Files invalid = new Files(invalidPath.toString());
+
+        // Act
+        double[] result = files.readNumbers(',');
+
+        // Assert
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0, 4.0}, result, "Trailing empty values should be dropped");
+        assertThrows(NumberFormatException.class, () -> invalid.readNumbers(','), "An empty value inside a line should be invalid");
+    }
+
+    /**
+     * Tests the readNumbers method on a file large enough to be split into several chunks.
+     * Verifies that chunk boundaries never split or drop a value.
+     */
+    @Test
+    void testReadNumbersAcrossChunks() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("large.csv");
+        Random random = new Random(42);
+        double[] expected = new double[500_000];
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = Math.round(random.nextDouble() * 1_000_000) / 1_000.0 - 500;
+            builder.append(expected[i]).append(i % 4 == 3 ? "\n" : ",");
+        }
+        java.nio.file.Files.writeString(filePath, builder.toString());
+        Files files = new Files(filePath.toString());
+
+        // Act
+        double[] result = files.readNumbers(',');
+
+        // Assert
+        assertArrayEquals(expected, result, "Values parsed in chunks should match the written values");
+    }
+
+    /**
+     * Tests the readNumbers method with an invalid value.
+     * Verifies that a NumberFormatException naming the offending value is thrown.
+     */
+    @Test
+    void testReadNumbersWithInvalidNumberFormat() throws IOException {
+        // Arrange
+        Path filePath = tempDir.resolve("invalid.csv");
+        java.nio.file.Files.writeString(filePath, "1, abc, 3");
+        Files files = new Files(filePath.toString());
+
+        // Act & Assert
+        Exception exception = assertThrows(NumberFormatException.class, () -> files.readNumbers(','));
+        assertEquals("Invalid number format: abc", exception.getMessage(), "The invalid value should be reported");
+    }
+
+    /**
+     * Tests the validateByRegularExpression method.
+     * Verifies that the method correctly validates strings against regex patterns.
+     */
+    @Test
+    void testValidateByRegularExpression() {
+        // Arrange & Act & Assert
+        assertTrue(Files.validateByRegularExpression("abc123", "\\w+"), "Alphanumeric string should match \\w+");
+        assertTrue(Files.validateByRegularExpression("123", "\\d+"), "Numeric string should match \\d+");
+        assertFalse(Files.validateByRegularExpression("abc", "\\d+"), "Alphabetic string should not match \\d+");
+    }
+
+    /**
+     * Tests the replaceByRegularExpression method.
+     * Verifies that the method correctly replaces text based on regex patterns.
+     */
+    @Test
+    void testReplaceByRegularExpression() {
+        // Arrange
+        String text = "Hello 123 World";
+        
+        // Act
+        String result1 = Files.replaceByRegularExpression(text, "\\d+", "numbers");
+        String result2 = Files.replaceByRegularExpression(text, "\\s+", "-");
+        
+        // Assert
+        assertEquals("Hello numbers World", result1, "Numbers should be replaced");
+        assertEquals("Hello-123-World", result2, "Spaces should be replaced with hyphens");
+    }
+
+    /**
+     * Tests the findWords method.
+     * Verifies that the method correctly finds words matching a regex pattern.
+     */
+    @Test
+    void testFindWords() {
+        // Arrange
+        Files files = new Files(tempDir.toString());
+        String text = "Hello world, this is a test. It has 123 numbers and special-chars.";
+        
+        // Act
+        List<String> words = files.findWords(text, "\\w+");
+        List<String> numbers = files.findWords(text, "\\d+");
+        
+        // Assert
+        assertTrue(words.contains("Hello"), "Should find the word 'Hello'");
+        assertTrue(words.contains("world"), "Should find the word 'world'");
+        assertTrue(words.contains("123"), "Should find the number '123'");
+        assertEquals(1, numbers.size(), "Should find exactly one number");
+        assertEquals("123", numbers.get(0), "Should find the number '123'");
+    }
+
+    /**
+     * Tests the listFiles method.
+     * Verifies that the method correctly lists files in a directory.
+     */
+    @Test
+    void testListFiles() throws IOException {
+        // Arrange
+        Path file1 = tempDir.resolve("file1.txt");
+        Path file2 = tempDir.resolve("file2.txt");
+        java.nio.file.Files.createFile(file1);
+        java.nio.file.Files.createFile(file2);
+        Files files = new Files(tempDir.toString());
+        
+        // Act
+        String[] fileList = files.listFiles();
+        
+        // Assert
+        assertEquals(2, fileList.length, "Should list 2 files");
+        List<String> fileNames = Arrays.asList(fileList);
+        assertTrue(fileNames.contains("file1.txt"), "Should contain file1.txt");
+        assertTrue(fileNames.contains("file2.txt"), "Should contain file2.txt");
+    }
+
+    /**
+     * Tests the listFilesOnDirectory method with FILE type.
+     * Verifies that the method correctly lists only files (not directories).
+     */
+    @Test
+    void testListFilesOnDirectoryWithFileType() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("testFile.txt");
+        Path dir = tempDir.resolve("testDir");
+        java.nio.file.Files.createFile(file);
+        java.nio.file.Files.createDirectory(dir);
+        Files files = new Files(tempDir.toString());
+        
+        // Act
+        List<String> fileList = files.listFilesOnDirectory(FileType.FILE);
+        
+        // Assert
+        assertEquals(1, fileList.size(), "Should list 1 file");
+        assertEquals("testFile.txt", fileList.get(0), "Should list the file name");
+    }
+
+    /**
+     * Tests the listFilesOnDirectory method with DIRECTORY type.
+     * Verifies that the method correctly lists only directories (not files).
+     */
+    @Test
+    void testListFilesOnDirectoryWithDirectoryType() throws IOException {
+        // Arrange
+        Path file = tempDir.resolve("testFile.txt");
+        Path dir = tempDir.resolve("testDir");
+        java.nio.file.Files.createFile(file);
+        java.nio.file.Files.createDirectory(dir);
+        Files files = new Files(tempDir.toString());
+        
+        // Act
+        List<String> dirList = files.listFilesOnDirectory(FileType.DIRECTORY);
+        
+        // Assert
+        assertEquals(1, dirList.size(), "Should list 1 directory");
+        assertEquals("testDir", dirList.get(0), "Should list the directory name");
+    }
+
+    /**
+     * Tests the copyTo method with several targets and atomic publish.
+     * Verifies that every target receives the full content and no temporary file is left behind.
+     */
+    @Test
+    void testCopyTo() throws IOException {
+        // Arrange
+        Path source = tempDir.resolve("source.txt");
+        java.nio.file.Files.writeString(source, "copy me" + System.lineSeparator());
+        List<Path> targets = List.of(tempDir.resolve("first.txt"), tempDir.resolve("second.txt"));
+        Files files = new Files(source.toString());
+
+        // Act
+        TransferStats stats = files.copyTo(targets, true);
+
+        // Assert
+        assertEquals(2 * java.nio.file.Files.size(source), stats.getBytes(), "Bytes should be counted for every target");
+        for (Path target : targets) {
+            assertEquals(java.nio.file.Files.readString(source), java.nio.file.Files.readString(target), "Target should match the source");
+        }
+        try (var entries = java.nio.file.Files.list(tempDir)) {
+            assertEquals(3, entries.count(), "No temporary file should remain");
+        }
+    }
+
+    /**
+     * Tests the splitByLines and concatenate methods.
+     * Verifies that lines are kept whole in each part and that joining the parts restores the file.
+     */
+    @Test
+    void testSplitByLinesAndConcatenate() throws IOException {
+        // Arrange
+        Path source = tempDir.resolve("lines.txt");
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            builder.append("line").append(i).append('\n');
+        }
+        java.nio.file.Files.writeString(source, builder.toString());
+        Files files = new Files(source.toString());
+
+        // Act
+        TransferStats split = files.splitByLines(3, false);
+        TransferStats joined = Files.concatenate(split.getTargets(), tempDir.resolve("joined.txt"), true);
+
+        // Assert
+        assertEquals(4, split.getTargets().size(), "Ten lines in parts of three should give four parts");
+        assertEquals("line0\nline1\nline2\n", java.nio.file.Files.readString(split.getTargets().get(0)), "First part should hold three lines");
+        assertEquals("line9\n", java.nio.file.Files.readString(split.getTargets().get(3)), "Last part should hold the remaining line");
+        assertEquals(builder.toString(), java.nio.file.Files.readString(tempDir.resolve("joined.txt")), "Concatenated parts should match the source");
+        assertEquals(builder.length(), joined.getBytes(), "All bytes should be reported");
+    }
+
+    /**
+     * Tests the splitBySize method.
+     * Verifies that no part exceeds the requested size and parts are named after the source.
+     */
+    @Test
+    void testSplitBySize() throws IOException {
+        // Arrange
+        Path source = tempDir.resolve("data.bin");
+        java.nio.file.Files.write(source, new byte[100]);
+        Files files = new Files(source.toString());
+
+        // Act
+        TransferStats stats = files.splitBySize(40, false);
+
+        // Assert
+        assertEquals(List.of(tempDir.resolve("data.bin.001"), tempDir.resolve("data.bin.002"), tempDir.resolve("data.bin.003")),
+                stats.getTargets(), "Parts should be numbered after the source");
+        assertEquals(40, java.nio.file.Files.size(stats.getTargets().get(0)), "Full parts should have the requested size");
+        assertEquals(20, java.nio.file.Files.size(stats.getTargets().get(2)), "The last part should hold the remainder");
+        assertTrue(stats.getBytesPerSecond() > 0, "Throughput should be reported");
+    }
+
+    /**
+     * Tests the splitBySize method with 1000 parts.
+     * Verifies that the suffix widens so every part name has the same length and the parts sort in order.
+     */
+    @Test
+    void testSplitBySizeWidensSuffix() throws IOException {
+        // Arrange
+        Path source = tempDir.resolve("data.bin");
+        java.nio.file.Files.write(source, new byte[1_000]);
+        Files files = new Files(source.toString());
+
+        // Act
+        List<Path> parts = files.splitBySize(1, false).getTargets();
+
+        // Assert
+        assertEquals(tempDir.resolve("data.bin.0001"), parts.get(0), "The first part should be padded to four digits");
+        assertEquals(tempDir.resolve("data.bin.1000"), parts.get(999), "The last part should keep the same width");
+        assertEquals(parts, parts.stream().sorted().toList(), "Parts should sort in order");
+    }
+
+    /**
+     * Tests the splitBySize method on a file already split into more parts.
+     * Verifies that the parts of the earlier split past the new last part are deleted.
+     */
+    @Test
+    void testSplitBySizeDeletesLeftoverParts() throws IOException {
+        // Arrange
+        Path source = tempDir.resolve("data.bin");
+        java.nio.file.Files.write(source, new byte[100]);
+        Files files = new Files(source.toString());
+        files.splitBySize(10, false);
+
+        // Act
+        TransferStats stats = files.splitBySize(40, false);
+
+        // Assert
+        assertEquals(3, stats.getTargets().size(), "The new split should have three parts");
+        assertFalse(java.nio.file.Files.exists(tempDir.resolve("data.bin.004")), "Leftover parts should be deleted");
+        try (var entries = java.nio.file.Files.list(tempDir)) {
+            assertEquals(4, entries.count(), "Only the source and the new parts should remain");
+        }
+    }
+
+    /**
+     * Tests the copyTo and concatenate methods when the target is also a source.
+     * Verifies that the call is rejected before the source is truncated.
+     */
+    @Test
+    void testTransferRejectsSourceAsTarget() throws IOException {
+        // Arrange
+        Path source = tempDir.resolve("self.txt");
+        java.nio.file.Files.writeString(source, "abc");
+        Files files = new Files(source.toString());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> files.copyTo(source, false), "Copying onto itself should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> Files.concatenate(List.of(source, source), source, false),
+                "Concatenating into a source should be rejected");
+        assertEquals("abc", java.nio.file.Files.readString(source), "The source should be left untouched");
+    }
+
+    /**
+     * Tests the copyTo method with atomic publish on a POSIX file system.
+     * Verifies that atomic copies get the same permissions as plain copies and keep those of an existing target.
+     */
+    @Test
+    void testAtomicCopyKeepsPermissions() throws IOException {
+        // Arrange
+        Assumptions.assumeTrue(tempDir.getFileSystem().supportedFileAttributeViews().contains("posix"), "Requires POSIX permissions");
+        Path source = tempDir.resolve("config.txt");
+        java.nio.file.Files.writeString(source, "key=value");
+        Path existing = tempDir.resolve("existing.txt");
+        java.nio.file.Files.writeString(existing, "old");
+        java.nio.file.Files.setPosixFilePermissions(existing, PosixFilePermissions.fromString("rw-rw----"));
+        Files files = new Files(source.toString());
+
+        // Act
+        files.copyTo(tempDir.resolve("plain.txt"), false);
+        files.copyTo(tempDir.resolve("atomic.txt"), true);
+        files.copyTo(existing, true);
+
+        // Assert
+        assertEquals(java.nio.file.Files.getPosixFilePermissions(tempDir.resolve("plain.txt")),
+                java.nio.file.Files.getPosixFilePermissions(tempDir.resolve("atomic.txt")),
+                "A new atomic copy should get the default permissions");
+        assertEquals(PosixFilePermissions.fromString("rw-rw----"), java.nio.file.Files.getPosixFilePermissions(existing),
+                "Replacing a file atomically should keep its permissions");
+    }
+
+    /**
+     * Tests the setFile and getFile methods.
+     * Verifies that the file reference can be correctly updated and retrieved.
+     */
+    @Test
+    void testSetAndGetFile() {
+        // Arrange
+        Files files = new Files(tempDir.toString());
+        File newFile = new File(tempDir.toString(), "newFile.txt");
+        
+        // Act
+        files.setFile(newFile);
+        File retrievedFile = files.getFile();
+        
+        // Assert
+        assertEquals(newFile, retrievedFile, "Retrieved file should match the set file");
+    }
+}
@@ -2,6 +2,8 @@ package io.github.imecuadorian.library;
 
 import org.junit.jupiter.api.*;
 
+import java.util.*;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GenericTest {
@@ -94,4 +96,74 @@ class GenericTest {
         // Assert
         assertArrayEquals(new double[]{10.0, 20.0, 30.5, 40.0}, result, "The method should correctly parse values with a custom delimiter.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testValidateWordsReturnsMismatchIndices() {
+        // Arrange
+        Generic<String, String> generic = new Generic<>();
+        List<Generic<?, ?>> pairs = new LinkedList<>(List.of(
+                new Generic<>("alpha", "alpha", null),
+                new Generic<CharSequence, String>(new StringBuilder("beta"), "beta", null),
+                new Generic<>("gamma", "delta", null),
+                new Generic<Object, String>(10, "10", null),
+                new Generic<>("long", "longer", null)
+        ));
+
+        // Act
+        int[] result = generic.validateWords(pairs);
+
+        // Assert
+        assertArrayEquals(new int[]{2, 4}, result, "Only the differing pairs should be reported, in order.");
+    }
+
+    @Test
+    void testValidateWordsWithLargeBatch() {
+        // Arrange
+        Generic<String, String> generic = new Generic<>();
+        Generic<?, ?>[] pairs = new Generic<?, ?>[100_000];
+        for (int i = 0; i < pairs.length; i++) {
+            pairs[i] = new Generic<>("value" + i, i % 1_000 == 0 ? "other" : "value" + i, null);
+        }
+
+        // Act
+        int[] result = generic.validateWords(pairs);
+
+        // Assert
+        assertEquals(100, result.length, "Every thousandth pair should be a mismatch.");
+        assertEquals(99_000, result[99], "Mismatch indices should be ascending.");
+    }
+
+    @Test
+    void testValidateNumbersReturnsMismatchIndices() {
+        // Arrange
+        Generic<Integer, String> generic = new Generic<>();
+        List<Generic<? extends Number, ?>> pairs = List.of(
+                new Generic<Number, String>(1, 1L, null),
+                new Generic<Long, String>((1L << 53) + 1, 1L << 53, null),
+                new Generic<Number, String>(2.5, 2.5f, null),
+                new Generic<Number, String>(3, 3.0, null),
+                new Generic<Double, String>(0.1, 0.2, null)
+        );
+
+        // Act
+        int[] result = generic.validateNumbers(pairs);
+
+        // Assert
+        assertArrayEquals(new int[]{1, 4}, result, "Integral pairs should be compared exactly and others by double value.");
+    }
+
+    @Test
+    void testValidateNumberAgreesWithValidateNumbers() {
+        // Arrange
+        Generic<Long, String> generic = new Generic<>();
+        Generic<Long, String> pair = new Generic<>((1L << 53) + 1, 1L << 53, null);
+
+        // Act
+        boolean single = generic.validateNumber(pair);
+        int[] batch = generic.validateNumbers(List.of(pair));
+
+        // Assert
+        assertFalse(single, "Large integral values should be compared exactly.");
+        assertArrayEquals(new int[]{0}, batch, "The batch should agree with the single comparison.");
+    }
+}
@@ -1,2 +1,3 @@
 rootProject.name = "generic-library"
 
+include("core", "ui")
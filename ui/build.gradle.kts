@@ -0,0 +1,47 @@
+plugins {
+    `java-library`
+}
+
+val junitVersion: String by project
+val jetbrainsAnnotationsVersion: String by project
+
+val benchmark: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[benchmark.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[benchmark.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+configurations[benchmark.compileOnlyConfigurationName].extendsFrom(configurations.compileOnly.get())
+
+dependencies {
+    api(project(":core"))
+    compileOnly("org.jetbrains:annotations:$jetbrainsAnnotationsVersion")
+    testImplementation(platform("org.junit:junit-bom:$junitVersion"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+tasks.jar {
+    archiveBaseName.set("generic-library-ui")
+    archiveVersion.set(project.version.toString())
+    archiveClassifier.set("")
+}
+
+tasks.register<JavaExec>("startupBenchmark") {
+    group = "verification"
+    description = "Compares JVM startup of the headless core against the pre-split Files."
+    classpath = benchmark.runtimeClasspath
+    mainClass.set("io.github.imecuadorian.library.benchmark.StartupBenchmark")
+    args(project.findProperty("runs")?.toString() ?: "20")
+}
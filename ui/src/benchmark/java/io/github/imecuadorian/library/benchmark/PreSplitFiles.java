@@ -1,5 +1,7 @@
-package io.github.imecuadorian.library;
+package io.github.imecuadorian.library.benchmark;
 
+import io.github.imecuadorian.library.FileType;
+import io.github.imecuadorian.library.Generic;
 import org.jetbrains.annotations.*;
 
 import javax.swing.*;
@@ -9,22 +11,23 @@ import java.util.*;
 import java.util.regex.*;
 
 /**
- * Utility class for managing file and directory operations.
+ * Copy of {@code Files} as it was before the {@code ui} module split, kept only so
+ * {@link StartupBenchmark} can measure the class loading it caused.
  * <p>
- * This class provides methods for creating, reading, writing, filtering, and selecting files or directories.
- * It uses a {@code Generic<String, File>} structure to manage associated data.
+ * Its {@code getFileFromFileChooser} signature makes the verifier load Swing and AWT classes
+ * as soon as the class is linked, even on headless read paths.
  */
-public class Files {
+public class PreSplitFiles {
 
     private final Generic<String, File> information;
     private Pattern pattern;
     private Matcher matcher;
     /**
-     * Constructs a {@code Files} instance for managing a specific file or directory path.
+     * Constructs a {@code PreSplitFiles} instance for managing a specific file or directory path.
      *
      * @param pathName the path to the file or directory
      */
-    public Files(String pathName) {
+    public PreSplitFiles(String pathName) {
         this.information = new Generic<>(pathName, new File(pathName));
     }
 
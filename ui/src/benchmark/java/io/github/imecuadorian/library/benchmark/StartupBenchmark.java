@@ -0,0 +1,102 @@
+package io.github.imecuadorian.library.benchmark;
+
+import io.github.imecuadorian.library.Files;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Measures JVM startup for a headless consumer of the core module against the same consumer
+ * running on {@link PreSplitFiles}, the {@code Files} class as it was before the {@code ui} module split.
+ * <p>
+ * Each probe runs in a fresh JVM {@code runs} times and the median wall-clock time is reported,
+ * along with the number of {@code javax.swing} and {@code java.awt} classes the probe loads.
+ * Run it with {@code ./gradlew :ui:startupBenchmark -Pruns=20}.
+ */
+public final class StartupBenchmark {
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+
+        // Warm the OS file cache so the first measured run is not penalised.
+        launch(HeadlessProbe.class);
+        launch(PreSplitProbe.class);
+
+        long headless = medianMillis(HeadlessProbe.class, runs);
+        long preSplit = medianMillis(PreSplitProbe.class, runs);
+
+        System.out.printf("Runs per probe:             %d%n", runs);
+        System.out.printf("Before (pre-split Files):   %d ms%n", preSplit);
+        System.out.printf("After  (headless core):     %d ms%n", headless);
+        System.out.printf("Saved:                      %d ms (%.1f%%)%n",
+                preSplit - headless, preSplit == 0 ? 0.0 : 100.0 * (preSplit - headless) / preSplit);
+        System.out.printf("Swing/AWT classes loaded:   %d before, %d after%n",
+                desktopClasses(PreSplitProbe.class), desktopClasses(HeadlessProbe.class));
+    }
+
+    private static long desktopClasses(Class<?> probe) throws IOException, InterruptedException {
+        Process process = command(probe, "-Xlog:class+load=info").redirectErrorStream(true).start();
+        long count;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            count = reader.lines()
+                    .filter(line -> line.contains(" javax.swing.") || line.contains(" java.awt."))
+                    .count();
+        }
+        process.waitFor();
+        return count;
+    }
+
+    private static long medianMillis(Class<?> probe, int runs) throws IOException, InterruptedException {
+        long[] samples = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            samples[i] = launch(probe);
+        }
+        Arrays.sort(samples);
+        return samples[runs / 2];
+    }
+
+    private static long launch(Class<?> probe) throws IOException, InterruptedException {
+        ProcessBuilder builder = command(probe)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        long start = System.nanoTime();
+        int exit = builder.start().waitFor();
+        long elapsed = System.nanoTime() - start;
+        if (exit != 0) {
+            throw new IllegalStateException(probe.getSimpleName() + " exited with code " + exit);
+        }
+        return elapsed / 1_000_000;
+    }
+
+    private static ProcessBuilder command(Class<?> probe, String... options) {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-Djava.awt.headless=true");
+        command.addAll(List.of(options));
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), probe.getName()));
+        return new ProcessBuilder(command);
+    }
+
+    /**
+     * Lists the temporary directory through the headless core only.
+     */
+    public static final class HeadlessProbe {
+
+        public static void main(String[] args) {
+            new Files(System.getProperty("java.io.tmpdir")).listFiles();
+        }
+    }
+
+    /**
+     * Does the same work through the pre-split {@code Files}, whose linking pulls in Swing and AWT classes.
+     */
+    public static final class PreSplitProbe {
+
+        public static void main(String[] args) {
+            new PreSplitFiles(System.getProperty("java.io.tmpdir")).listFiles();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.imecuadorian.library.ui;
+
+import io.github.imecuadorian.library.Files;
+import org.jetbrains.annotations.*;
+
+import javax.swing.*;
+import javax.swing.filechooser.*;
+
+/**
+ * Swing helpers for selecting the file managed by a {@link Files} instance.
+ * <p>
+ * Kept out of the core module so headless applications never load Swing or AWT.
+ */
+public final class FileChooser {
+
+    private FileChooser() {
+    }
+
+    /**
+     * Opens a file chooser dialog to select a file of the given extension.
+     *
+     * @param files     the {@code Files} instance that will manage the selected file
+     * @param frame     the parent JFrame
+     * @param extension the required file extension (e.g. "txt")
+     * @return {@code true} if a file was selected
+     */
+    public static boolean select(@NotNull Files files, JFrame frame, String extension) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setAcceptAllFileFilterUsed(false);
+        chooser.setFileFilter(new FileNameExtensionFilter(extension + " files", extension));
+        chooser.setFileSelectionMode(JFileChooser.FILES_ONLY);
+        int result = chooser.showOpenDialog(frame);
+        if (result == JFileChooser.APPROVE_OPTION) {
+            files.setFile(chooser.getSelectedFile());
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Optional Swing helpers for the generic library.
+ */
+module io.github.imecuadorian.library.ui {
+    requires transitive io.github.imecuadorian.library;
+    requires transitive java.desktop;
+    requires static org.jetbrains.annotations;
+
+    exports io.github.imecuadorian.library.ui;
+}
@@ -0,0 +1,33 @@
+package io.github.imecuadorian.library.ui;
+
+import io.github.imecuadorian.library.Files;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.swing.*;
+import java.nio.file.Path;
+
+/**
+ * Test class for the {@link FileChooser} Swing helpers.
+ */
+class FileChooserTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests the select method.
+     * This test is limited as it involves UI interaction, but we can test the method signature.
+     * In a real environment, this would require UI automation or mocking.
+     */
+    @Test
+    @Disabled("This test requires UI interaction and is for demonstration only")
+    void testSelect() {
+        // This test is disabled as it requires UI interaction
+        // In a real test environment, you would use UI automation or mock the JFileChooser
+        Files files = new Files(tempDir.toString());
+        JFrame frame = new JFrame();
+        boolean result = FileChooser.select(files, frame, "txt");
+        // No assertions as this is just a demonstration
+    }
+}